@@ -114,7 +114,8 @@ def upload_pdf():
         text = ""
         with fitz.open(stream=file.read(), filetype="pdf") as pdf_document:
             for page in pdf_document:
-                text += page.get_text()
+                # Form feed marks page boundaries so the app can spot running headers/footers.
+                text += page.get_text() + "\f"
         logger.info("Successfully extracted text from PDF")
         return jsonify({"text": text})
     except Exception as e:
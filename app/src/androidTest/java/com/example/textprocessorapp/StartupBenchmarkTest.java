@@ -0,0 +1,74 @@
+package com.example.textprocessorapp;
+
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
+import android.widget.EditText;
+
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Cold-start budget check for MainActivity. Run it on a freshly started
+ * process (e.g. {@code ./gradlew connectedAndroidTest}) so the numbers are a
+ * real cold start. Budgets can be overridden with the instrumentation
+ * arguments {@code firstFrameBudgetMs} and {@code firstRequestBudgetMs}.
+ */
+@RunWith(AndroidJUnit4.class)
+public class StartupBenchmarkTest {
+    private static final long WAIT_TIMEOUT_MS = 10_000;
+    // Nothing listens here, so the request fails fast without leaving the device.
+    private static final String STUB_BASE_URL = "http://127.0.0.1:9/";
+
+    @Test
+    public void firstFrameAndFirstRequestStayWithinBudget() {
+        Bundle args = InstrumentationRegistry.getArguments();
+        long firstFrameBudget = Long.parseLong(args.getString("firstFrameBudgetMs", "1500"));
+        long firstRequestBudget = Long.parseLong(args.getString("firstRequestBudgetMs", "2000"));
+
+        ApiClient.useBaseUrl(STUB_BASE_URL);
+        try (ActivityScenario<MainActivity> scenario = ActivityScenario.launch(MainActivity.class)) {
+            long created = waitFor(StartupMetrics::getActivityCreatedMillis);
+            long firstFrame = waitFor(StartupMetrics::getFirstFrameMillis);
+
+            // Fire a real summarize request as soon as the screen is up, without waiting for the
+            // warm-up, so any time the main thread spends building or waiting for the client counts.
+            scenario.onActivity(activity -> {
+                EditText input = activity.findViewById(R.id.inputText);
+                input.setText("Startup benchmark request");
+                activity.findViewById(R.id.btnSummarize).performClick();
+            });
+            long firstRequest = waitFor(StartupMetrics::getFirstRequestMillis);
+
+            long timeToFirstFrame = firstFrame - created;
+            long timeToFirstRequest = firstRequest - created;
+            Log.i(StartupMetrics.TAG, "time to first frame: " + timeToFirstFrame
+                    + " ms, time to first request: " + timeToFirstRequest + " ms");
+
+            assertTrue("time to first frame " + timeToFirstFrame + " ms exceeds " + firstFrameBudget + " ms",
+                    timeToFirstFrame <= firstFrameBudget);
+            assertTrue("time to first request " + timeToFirstRequest + " ms exceeds " + firstRequestBudget + " ms",
+                    timeToFirstRequest <= firstRequestBudget);
+        }
+    }
+
+    private static long waitFor(LongSupplier metric) {
+        long deadline = SystemClock.uptimeMillis() + WAIT_TIMEOUT_MS;
+        long value;
+        while ((value = metric.getAsLong()) < 0) {
+            if (SystemClock.uptimeMillis() > deadline) {
+                fail("Startup milestone not reached within " + WAIT_TIMEOUT_MS + " ms");
+            }
+            SystemClock.sleep(10);
+        }
+        return value;
+    }
+}
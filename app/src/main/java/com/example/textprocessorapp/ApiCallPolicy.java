@@ -0,0 +1,235 @@
+package com.example.textprocessorapp;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * OkHttp interceptor that replaces the fixed client timeouts with per-call ones.
+ * The read/write timeout grows with the request body size and is scaled by how
+ * long that endpoint has actually been taking. Calls marked with
+ * {@link #IDEMPOTENT_HEADER} are retried with jittered exponential backoff after
+ * transport errors and 429/502/503/504, and a {@link CircuitBreaker} fails calls
+ * fast while the backend is unreachable.
+ */
+public class ApiCallPolicy implements Interceptor {
+    /** Receives retry warnings; kept free of android.util.Log so the policy runs on a plain JVM. */
+    public interface Logger {
+        void warn(String message);
+    }
+
+    /** Thrown without touching the network while the circuit breaker is open. */
+    public static class ServerUnavailableException extends IOException {
+        ServerUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    /** Added via {@code @Headers} on {@link ApiService} methods that are safe to repeat; never sent. */
+    public static final String IDEMPOTENT_HEADER = "X-Idempotent";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = 8_000;
+
+    // Timeouts start at this multiple of the size-based estimate.
+    private static final int HEADROOM = 2;
+    private static final long MIN_TIMEOUT_MILLIS = 5_000;
+    private static final long MAX_TIMEOUT_MILLIS = 180_000;
+    // Need a few samples before history is allowed to move the timeout.
+    private static final int MIN_SAMPLES = 3;
+
+    private static final int BREAKER_FAILURE_THRESHOLD = 5;
+    private static final long BREAKER_OPEN_MILLIS = 30_000;
+
+    private final Map<String, LatencyHistory> history = new HashMap<>();
+    private final CircuitBreaker breaker =
+            new CircuitBreaker(BREAKER_FAILURE_THRESHOLD, BREAKER_OPEN_MILLIS);
+    private final Random random = new Random();
+    private final Logger logger;
+
+    public ApiCallPolicy() {
+        this(message -> { });
+    }
+
+    public ApiCallPolicy(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request original = chain.request();
+        boolean idempotent = "true".equals(original.header(IDEMPOTENT_HEADER));
+        Request request = original.newBuilder().removeHeader(IDEMPOTENT_HEADER).build();
+
+        String path = request.url().encodedPath();
+        long bodyBytes = request.body() != null ? Math.max(0, request.body().contentLength()) : 0;
+        long expectedMillis = expectedMillis(path, bodyBytes);
+        long timeoutMillis = timeoutMillis(path, expectedMillis);
+
+        long now = System.currentTimeMillis();
+        if (!breaker.allowRequest(now)) {
+            throw new ServerUnavailableException("Server unavailable, try again in "
+                    + (breaker.millisUntilRetry(now) / 1000 + 1) + "s");
+        }
+
+        // The breaker hears about the call once, from its last attempt, and only counts
+        // outcomes that say the backend is unreachable; errors about the input don't.
+        boolean backendUp = false;
+        boolean backendDown = false;
+        int maxAttempts = idempotent ? MAX_ATTEMPTS : 1;
+        try {
+            for (int attempt = 1; ; attempt++) {
+                backendUp = false;
+                backendDown = false;
+                long start = System.nanoTime();
+                try {
+                    Response response = chain
+                            .withReadTimeout((int) timeoutMillis, TimeUnit.MILLISECONDS)
+                            .withWriteTimeout((int) timeoutMillis, TimeUnit.MILLISECONDS)
+                            .proceed(request);
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                    backendDown = signalsBackendDown(response.code());
+                    backendUp = !backendDown && response.code() != 429;
+                    if (!isRetryable(response.code()) || attempt >= maxAttempts) {
+                        if (response.isSuccessful()) {
+                            recordLatency(path, elapsedMillis, expectedMillis);
+                        }
+                        return response;
+                    }
+                    response.close();
+                    logger.warn(path + " attempt " + attempt + " got HTTP " + response.code());
+                } catch (SocketTimeoutException e) {
+                    backendDown = true;
+                    // The call took at least this long; feed that back so later calls get more time.
+                    recordLatency(path, timeoutMillis, expectedMillis);
+                    // The model may still be working on the first request; sending it again only adds load.
+                    if (attempt >= maxAttempts || isInference(path) || chain.call().isCanceled()) {
+                        throw e;
+                    }
+                    logger.warn(path + " attempt " + attempt + " timed out after " + timeoutMillis + " ms");
+                    timeoutMillis = Math.min(MAX_TIMEOUT_MILLIS, timeoutMillis * 2);
+                } catch (IOException e) {
+                    // A call the user cancelled says nothing about the backend.
+                    backendDown = !chain.call().isCanceled();
+                    if (attempt >= maxAttempts || !backendDown) {
+                        throw e;
+                    }
+                    logger.warn(path + " attempt " + attempt + " failed: " + e.getMessage());
+                }
+
+                sleepBeforeRetry(attempt);
+            }
+        } finally {
+            if (backendUp) {
+                breaker.recordSuccess();
+            } else if (backendDown) {
+                breaker.recordFailure(System.currentTimeMillis());
+            } else {
+                // Nothing was learned (429, cancellation, unexpected exception); don't hold a half-open trial.
+                breaker.releaseTrial();
+            }
+        }
+    }
+
+    /** Statuses worth another attempt: overload and gateway errors, not errors caused by the input. */
+    static boolean isRetryable(int code) {
+        return code == 429 || signalsBackendDown(code);
+    }
+
+    // 500 comes back from the Flask handlers for bad PDFs and model errors; the gateway codes mean
+    // the server itself (or the tunnel in front of it) isn't answering.
+    static boolean signalsBackendDown(int code) {
+        return code == 502 || code == 503 || code == 504;
+    }
+
+    private static boolean isInference(String path) {
+        return path.equals("/summarize") || path.equals("/rewrite");
+    }
+
+    private void sleepBeforeRetry(int attempt) throws IOException {
+        // Full jitter: a random delay up to the exponential cap spreads retries from concurrent calls.
+        long cap = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << (attempt - 1));
+        long delay;
+        synchronized (random) {
+            delay = (long) (random.nextDouble() * cap);
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    /** Size-based estimate of how long a healthy backend needs for this call. */
+    static long expectedMillis(String path, long bodyBytes) {
+        long kb = bodyBytes / 1024;
+        switch (path) {
+            case "/summarize":
+            case "/rewrite":
+                return 15_000 + kb * 200;
+            case "/translate":
+                return 5_000 + kb * 50;
+            case "/upload-pdf":
+                return 10_000 + kb * 20;
+            default:
+                return 30_000;
+        }
+    }
+
+    long timeoutMillis(String path, long expectedMillis) {
+        long budget = expectedMillis * HEADROOM;
+        synchronized (history) {
+            LatencyHistory h = history.get(path);
+            // Without enough evidence the size-based budget stands on its own, so even a fresh
+            // process gives a small /translate about 10 s instead of a blanket 30 s.
+            if (h != null && h.samples >= MIN_SAMPLES) {
+                // Same idea as TCP's RTO: mean plus four deviations of the observed/expected ratio.
+                double factor = Math.max(0.25, Math.min(4.0, h.meanRatio + 4 * h.deviation));
+                budget = (long) (budget * factor);
+            }
+        }
+        return Math.max(MIN_TIMEOUT_MILLIS, Math.min(MAX_TIMEOUT_MILLIS, budget));
+    }
+
+    void recordLatency(String path, long elapsedMillis, long expectedMillis) {
+        double ratio = (double) elapsedMillis / (expectedMillis * HEADROOM);
+        synchronized (history) {
+            LatencyHistory h = history.get(path);
+            if (h == null) {
+                h = new LatencyHistory();
+                history.put(path, h);
+            }
+            h.add(ratio);
+        }
+    }
+
+    private static class LatencyHistory {
+        private static final double ALPHA = 0.125;
+        private static final double BETA = 0.25;
+
+        int samples;
+        double meanRatio;
+        double deviation;
+
+        void add(double ratio) {
+            if (samples == 0) {
+                meanRatio = ratio;
+                deviation = ratio / 2;
+            } else {
+                deviation = (1 - BETA) * deviation + BETA * Math.abs(ratio - meanRatio);
+                meanRatio = (1 - ALPHA) * meanRatio + ALPHA * ratio;
+            }
+            samples++;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.textprocessorapp;
+
+import android.util.Log;
+
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * Holds the single Retrofit-backed {@link ApiService} shared by all screens.
+ * It is built on first use; {@link #warmUp()} lets a screen build it off the
+ * main thread before the user's first request.
+ */
+public final class ApiClient {
+    private static final String BASE_URL = "https://8a39-106-193-150-43.ngrok-free.app";
+
+    private static String baseUrl = BASE_URL;
+    private static ApiService apiService;
+    private static boolean warmingUp;
+
+    private ApiClient() {
+    }
+
+    public static synchronized ApiService getService() {
+        if (apiService == null) {
+            apiService = create(baseUrl);
+            StartupMetrics.markApiReady();
+        }
+        return apiService;
+    }
+
+    /** Builds the service on a background thread unless it exists or is already being built. */
+    public static synchronized void warmUp() {
+        if (apiService != null || warmingUp) {
+            return;
+        }
+        warmingUp = true;
+        new Thread(ApiClient::getService, "api-warmup").start();
+    }
+
+    /** Points the shared service at another backend; only effective before it is first built. */
+    static synchronized void useBaseUrl(String url) {
+        baseUrl = url;
+    }
+
+    static ApiService create(String baseUrl) {
+        return create(baseUrl, message -> Log.w("ApiCallPolicy", message));
+    }
+
+    static ApiService create(String baseUrl, ApiCallPolicy.Logger logger) {
+        return create(baseUrl, new ApiCallPolicy(logger));
+    }
+
+    /**
+     * Builds a fresh client against {@code baseUrl}; used directly by the load-test harness.
+     * A null {@code policy} gives the plain client with fixed timeouts and no retries or breaker.
+     */
+    static ApiService create(String baseUrl, ApiCallPolicy policy) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectTimeout(10, TimeUnit.SECONDS)
+                // Per-call read/write timeouts are set by ApiCallPolicy; these are only the fallback.
+                .readTimeout(30, TimeUnit.SECONDS);
+        if (policy != null) {
+            builder.addInterceptor(policy);
+        }
+        OkHttpClient client = builder.build();
+
+        Retrofit retrofit = new Retrofit.Builder()
+                .client(client)
+                .baseUrl(baseUrl)
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+
+        return retrofit.create(ApiService.class);
+    }
+}
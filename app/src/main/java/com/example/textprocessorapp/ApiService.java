@@ -5,6 +5,7 @@ import java.util.Map;
 
 import retrofit2.Call;
 import retrofit2.http.Body;
+import retrofit2.http.Headers;
 import retrofit2.http.POST;
 
 import okhttp3.MultipartBody;
@@ -13,15 +14,21 @@ import retrofit2.http.Multipart;
 import retrofit2.http.Part;
 
 public interface ApiService {
+    // Repeating any of these calls has no side effects, so ApiCallPolicy may retry them
+    // after transport errors and gateway/overload responses (never after a plain 500).
+    @Headers(ApiCallPolicy.IDEMPOTENT_HEADER + ": true")
     @POST("/summarize")
     Call<SummaryResponse> summarizeText(@Body SummaryRequest request);
+    @Headers(ApiCallPolicy.IDEMPOTENT_HEADER + ": true")
     @Multipart
     @POST("/upload-pdf")
     Call<ResponseBody> uploadPdf(@Part MultipartBody.Part file);
 
+    @Headers(ApiCallPolicy.IDEMPOTENT_HEADER + ": true")
     @POST("/translate")
     Call<TranslationResponse> translateText(@Body TranslationRequest request);
 
+    @Headers(ApiCallPolicy.IDEMPOTENT_HEADER + ": true")
     @POST("/rewrite")
     Call<RewriteResponse> rewriteText(@Body RewriteRequest request);
 }
@@ -0,0 +1,178 @@
+package com.example.textprocessorapp;
+
+import android.annotation.SuppressLint;
+import android.content.Intent;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Bundle;
+import android.provider.OpenableColumns;
+import android.widget.ArrayAdapter;
+import android.widget.Spinner;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class BatchActivity extends AppCompatActivity implements BatchProcessor.Listener {
+    private static final int BATCH_REQUEST_CODE = 1003;
+
+    private final String[] languageCodes = {"mr", "hi", "te", "pa"};
+    private final String[] languageNames = {"Marathi", "Hindi", "Telugu", "Punjabi"};
+
+    private BatchProcessor batchProcessor;
+    private Spinner languageSpinner;
+    private TextView tvBatchStatus;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_batch);
+
+        languageSpinner = findViewById(R.id.spinnerBatchLanguage);
+        tvBatchStatus = findViewById(R.id.tvBatchStatus);
+
+        ArrayAdapter<String> adapter = new ArrayAdapter<>(
+                this, android.R.layout.simple_spinner_item, languageNames);
+        adapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
+        languageSpinner.setAdapter(adapter);
+
+        // Creating the processor also resumes, off the main thread, jobs left over from a killed process.
+        batchProcessor = BatchProcessor.getInstance(this);
+
+        findViewById(R.id.btnPickDocuments).setOnClickListener(v -> openFilePicker());
+        findViewById(R.id.btnClearFinished).setOnClickListener(v -> {
+            batchProcessor.clearFinished();
+            renderJobs();
+        });
+    }
+
+    @Override
+    protected void onStart() {
+        super.onStart();
+        batchProcessor.setListener(this);
+        renderJobs();
+    }
+
+    @Override
+    protected void onStop() {
+        batchProcessor.setListener(null);
+        super.onStop();
+    }
+
+    private void openFilePicker() {
+        Intent intent = new Intent(Intent.ACTION_GET_CONTENT);
+        intent.setType("application/pdf");
+        intent.putExtra(Intent.EXTRA_ALLOW_MULTIPLE, true);
+        startActivityForResult(intent, BATCH_REQUEST_CODE);
+    }
+
+    @Override
+    protected void onActivityResult(int requestCode, int resultCode, @Nullable Intent data) {
+        super.onActivityResult(requestCode, resultCode, data);
+        if (requestCode == BATCH_REQUEST_CODE && resultCode == RESULT_OK && data != null) {
+            List<Uri> uris = new ArrayList<>();
+            if (data.getClipData() != null) {
+                for (int i = 0; i < data.getClipData().getItemCount(); i++) {
+                    uris.add(data.getClipData().getItemAt(i).getUri());
+                }
+            } else if (data.getData() != null) {
+                uris.add(data.getData());
+            }
+            enqueueDocuments(uris, languageCodes[languageSpinner.getSelectedItemPosition()]);
+        }
+    }
+
+    private void enqueueDocuments(List<Uri> uris, String lang) {
+        // Documents are copied into app storage first so they can still be read after process death.
+        new Thread(() -> {
+            for (Uri uri : uris) {
+                try {
+                    String fileName = getFileName(uri);
+                    File file = copyToBatchDir(uri);
+                    batchProcessor.enqueue(file, fileName, lang);
+                } catch (IOException e) {
+                    runOnUiThread(() -> Toast.makeText(this,
+                            "Couldn't read " + uri.getLastPathSegment(), Toast.LENGTH_SHORT).show());
+                }
+            }
+        }, "batch-enqueue").start();
+    }
+
+    private File copyToBatchDir(Uri uri) throws IOException {
+        File file = new File(batchProcessor.getDocumentsDir(), System.nanoTime() + ".pdf");
+        try (InputStream inputStream = getContentResolver().openInputStream(uri);
+             FileOutputStream outputStream = new FileOutputStream(file)) {
+            if (inputStream == null) {
+                throw new IOException("Couldn't open file stream");
+            }
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, length);
+            }
+        }
+        return file;
+    }
+
+    @Override
+    public void onJobsChanged() {
+        renderJobs();
+    }
+
+    private void renderJobs() {
+        List<BatchJob> jobs = batchProcessor.getJobs();
+        String notice = batchProcessor.isStoreSetAside()
+                ? "Documents from an earlier session couldn't be restored\n\n" : "";
+        if (jobs.isEmpty()) {
+            tvBatchStatus.setText(notice + "No documents queued");
+            return;
+        }
+
+        StringBuilder status = new StringBuilder();
+        int done = 0;
+        long totalMillis = 0;
+        for (BatchJob job : jobs) {
+            status.append(job.getFileName()).append(" — ").append(job.getStage());
+            if (job.getStage() == BatchJob.Stage.DONE) {
+                done++;
+                totalMillis += job.getProcessingMillis();
+                status.append(String.format(Locale.US, " (%.1f s, %.0f chars/s)",
+                        job.getProcessingMillis() / 1000.0, job.getCharsPerSecond()));
+                status.append("\n  ").append(job.getTranslation());
+            } else if (job.getStage() == BatchJob.Stage.FAILED) {
+                status.append("\n  ").append(job.getError());
+            }
+            status.append("\n\n");
+        }
+
+        status.insert(0, String.format(Locale.US, "%s%d of %d done%s\n\n", notice, done, jobs.size(),
+                done == 0 ? "" : String.format(Locale.US, ", avg %.1f s per document",
+                        totalMillis / 1000.0 / done)));
+        tvBatchStatus.setText(status.toString());
+    }
+
+    @SuppressLint("Range")
+    private String getFileName(Uri uri) {
+        String result = null;
+        if ("content".equals(uri.getScheme())) {
+            try (Cursor cursor = getContentResolver().query(uri, null, null, null, null)) {
+                if (cursor != null && cursor.moveToFirst()) {
+                    result = cursor.getString(cursor.getColumnIndex(OpenableColumns.DISPLAY_NAME));
+                }
+            }
+        }
+        if (result == null) {
+            result = uri.getLastPathSegment();
+        }
+        return result;
+    }
+}
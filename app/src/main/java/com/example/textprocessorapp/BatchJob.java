@@ -0,0 +1,113 @@
+package com.example.textprocessorapp;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * One document moving through the batch pipeline. Every field is persisted so
+ * that a job can pick up at its current stage after the process is killed.
+ */
+public class BatchJob {
+
+    public enum Stage {
+        EXTRACT, SUMMARIZE, TRANSLATE, DONE, FAILED
+    }
+
+    final String id;
+    final String fileName;
+    final String filePath;
+    final String lang;
+
+    Stage stage = Stage.EXTRACT;
+    // Only needed until the summarize stage has run; see toJson().
+    String extractedText = "";
+    int extractedChars;
+    String summary = "";
+    String translation = "";
+    String error = "";
+
+    long extractMillis;
+    long summarizeMillis;
+    long translateMillis;
+
+    BatchJob(String id, String fileName, String filePath, String lang) {
+        this.id = id;
+        this.fileName = fileName;
+        this.filePath = filePath;
+        this.lang = lang;
+    }
+
+    public String getFileName() { return fileName; }
+    public Stage getStage() { return stage; }
+    public String getSummary() { return summary; }
+    public String getTranslation() { return translation; }
+    public String getError() { return error; }
+
+    public boolean isFinished() {
+        return stage == Stage.DONE || stage == Stage.FAILED;
+    }
+
+    public long getProcessingMillis() {
+        return extractMillis + summarizeMillis + translateMillis;
+    }
+
+    // Characters of extracted text pushed through the pipeline per second of processing time.
+    public double getCharsPerSecond() {
+        long millis = getProcessingMillis();
+        return millis == 0 ? 0 : extractedChars * 1000.0 / millis;
+    }
+
+    // Copy for display; leaves out the extracted text, which the UI never shows.
+    BatchJob copy() {
+        BatchJob copy = new BatchJob(id, fileName, filePath, lang);
+        copy.stage = stage;
+        copy.extractedChars = extractedChars;
+        copy.summary = summary;
+        copy.translation = translation;
+        copy.error = error;
+        copy.extractMillis = extractMillis;
+        copy.summarizeMillis = summarizeMillis;
+        copy.translateMillis = translateMillis;
+        return copy;
+    }
+
+    JSONObject toJson() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("id", id);
+        json.put("fileName", fileName);
+        json.put("filePath", filePath);
+        json.put("lang", lang);
+        json.put("stage", stage.name());
+        // The full text is the bulk of the store and only the summarize stage reads it,
+        // so it is written just while the job is waiting for that stage.
+        if (stage == Stage.SUMMARIZE) {
+            json.put("extractedText", extractedText);
+        }
+        json.put("extractedChars", extractedChars);
+        json.put("summary", summary);
+        json.put("translation", translation);
+        json.put("error", error);
+        json.put("extractMillis", extractMillis);
+        json.put("summarizeMillis", summarizeMillis);
+        json.put("translateMillis", translateMillis);
+        return json;
+    }
+
+    static BatchJob fromJson(JSONObject json) throws JSONException {
+        BatchJob job = new BatchJob(
+                json.getString("id"),
+                json.getString("fileName"),
+                json.getString("filePath"),
+                json.getString("lang"));
+        job.stage = Stage.valueOf(json.getString("stage"));
+        job.extractedText = json.optString("extractedText");
+        job.extractedChars = json.optInt("extractedChars");
+        job.summary = json.optString("summary");
+        job.translation = json.optString("translation");
+        job.error = json.optString("error");
+        job.extractMillis = json.optLong("extractMillis");
+        job.summarizeMillis = json.optLong("summarizeMillis");
+        job.translateMillis = json.optLong("translateMillis");
+        return job;
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.textprocessorapp;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+/**
+ * Runs many documents through extract → summarize → translate as a pipeline.
+ * Each stage has its own worker threads (its concurrency limit) and hands jobs
+ * to the next stage through a small bounded queue, so a slow stage makes the
+ * earlier ones wait instead of piling up extracted text in memory.
+ * Job state is written to disk after every stage and unfinished jobs are
+ * re-queued when the processor is created again after process death. Nothing
+ * here touches the network stack or the store on the caller's thread, so the
+ * batch screen opens as fast as the others.
+ */
+public class BatchProcessor {
+    private static final String TAG = "BatchProcessor";
+    private static final String STORE_FILE = "batch_jobs.json";
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+
+    private static final int EXTRACT_WORKERS = 1;
+    private static final int SUMMARIZE_WORKERS = 2;
+    private static final int TRANSLATE_WORKERS = 2;
+    private static final int STAGE_QUEUE_CAPACITY = 2;
+
+    public interface Listener {
+        void onJobsChanged();
+    }
+
+    private static BatchProcessor instance;
+
+    private final File storeFile;
+    private final File documentsDir;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final List<BatchJob> jobs = new ArrayList<>();
+
+    private final BlockingQueue<BatchJob> extractQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<BatchJob> summarizeQueue = new ArrayBlockingQueue<>(STAGE_QUEUE_CAPACITY);
+    private final BlockingQueue<BatchJob> translateQueue = new ArrayBlockingQueue<>(STAGE_QUEUE_CAPACITY);
+
+    private volatile Listener listener;
+    // Guarded by this. Until the old store has been read back (or set aside), writing it would drop its jobs.
+    private boolean restored;
+    private volatile boolean storeSetAside;
+
+    public static synchronized BatchProcessor getInstance(Context context) {
+        if (instance == null) {
+            instance = new BatchProcessor(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    private BatchProcessor(Context context) {
+        storeFile = new File(context.getFilesDir(), STORE_FILE);
+        documentsDir = new File(context.getFilesDir(), "batch");
+        documentsDir.mkdirs();
+
+        startWorkers(BatchJob.Stage.EXTRACT, EXTRACT_WORKERS, extractQueue, summarizeQueue);
+        startWorkers(BatchJob.Stage.SUMMARIZE, SUMMARIZE_WORKERS, summarizeQueue, translateQueue);
+        startWorkers(BatchJob.Stage.TRANSLATE, TRANSLATE_WORKERS, translateQueue, null);
+
+        new Thread(this::restore, "batch-restore").start();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /** True if the saved jobs from an earlier run couldn't be read; the file is kept beside the store as {@code .corrupt}. */
+    public boolean isStoreSetAside() {
+        return storeSetAside;
+    }
+
+    public File getDocumentsDir() {
+        return documentsDir;
+    }
+
+    /** Snapshot copies, safe to read on any thread while workers keep updating the originals. */
+    public synchronized List<BatchJob> getJobs() {
+        List<BatchJob> copies = new ArrayList<>(jobs.size());
+        for (BatchJob job : jobs) {
+            copies.add(job.copy());
+        }
+        return copies;
+    }
+
+    /** Queues a PDF that has already been copied into {@link #getDocumentsDir()}. */
+    public void enqueue(File pdf, String fileName, String lang) {
+        BatchJob job = new BatchJob(UUID.randomUUID().toString(), fileName, pdf.getAbsolutePath(), lang);
+        synchronized (this) {
+            jobs.add(job);
+            persist();
+        }
+        extractQueue.add(job);
+        notifyUpdated();
+    }
+
+    /** Drops finished jobs and their copied files from the list. */
+    public synchronized void clearFinished() {
+        List<BatchJob> remaining = new ArrayList<>();
+        for (BatchJob job : jobs) {
+            if (job.isFinished()) {
+                new File(job.filePath).delete();
+            } else {
+                remaining.add(job);
+            }
+        }
+        jobs.clear();
+        jobs.addAll(remaining);
+        persist();
+    }
+
+    private void startWorkers(BatchJob.Stage stage, int count, BlockingQueue<BatchJob> input,
+                              BlockingQueue<BatchJob> output) {
+        for (int i = 0; i < count; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    while (true) {
+                        BatchJob job = input.take();
+                        // Jobs resumed past this stage are only forwarded.
+                        if (stageOf(job) == stage) {
+                            runStage(job, stage);
+                        }
+                        if (output != null && !isFinished(job)) {
+                            // Blocks while the next stage is saturated.
+                            output.put(job);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "batch-" + stage.name().toLowerCase() + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private synchronized BatchJob.Stage stageOf(BatchJob job) {
+        return job.stage;
+    }
+
+    private synchronized boolean isFinished(BatchJob job) {
+        return job.isFinished();
+    }
+
+    /**
+     * Runs the network call for one stage without holding the lock, then applies
+     * the result and persists it under the lock so the store never sees a job
+     * whose stage and text disagree.
+     */
+    private void runStage(BatchJob job, BatchJob.Stage stage) {
+        String input;
+        String fileName;
+        String filePath;
+        String lang;
+        synchronized (this) {
+            input = stage == BatchJob.Stage.SUMMARIZE ? job.extractedText : job.summary;
+            fileName = job.fileName;
+            filePath = job.filePath;
+            lang = job.lang;
+        }
+
+        long start = System.currentTimeMillis();
+        String output = null;
+        Exception failure = null;
+        try {
+            switch (stage) {
+                case EXTRACT:
+                    output = extract(filePath, fileName);
+                    break;
+                case SUMMARIZE:
+                    output = summarize(input);
+                    break;
+                case TRANSLATE:
+                    output = translate(input, lang);
+                    break;
+                default:
+                    return;
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Stage " + stage + " failed for " + fileName, e);
+            failure = e;
+        }
+        long elapsed = System.currentTimeMillis() - start;
+
+        synchronized (this) {
+            if (failure != null) {
+                job.error = stage + ": " + failure.getMessage();
+                job.stage = BatchJob.Stage.FAILED;
+                job.extractedText = "";
+            } else if (stage == BatchJob.Stage.EXTRACT) {
+                job.extractedText = output;
+                job.extractedChars = output.length();
+                job.extractMillis = elapsed;
+                job.stage = BatchJob.Stage.SUMMARIZE;
+            } else if (stage == BatchJob.Stage.SUMMARIZE) {
+                job.summary = output;
+                job.extractedText = "";
+                job.summarizeMillis = elapsed;
+                job.stage = BatchJob.Stage.TRANSLATE;
+            } else {
+                job.translation = output;
+                job.translateMillis = elapsed;
+                job.stage = BatchJob.Stage.DONE;
+                new File(job.filePath).delete();
+            }
+            persist();
+        }
+        notifyUpdated();
+    }
+
+    private String extract(String filePath, String fileName) throws IOException, JSONException {
+        File file = new File(filePath);
+        RequestBody requestFile = RequestBody.create(MediaType.parse("application/pdf"), file);
+        MultipartBody.Part body = MultipartBody.Part.createFormData("file", fileName, requestFile);
+
+        Response<ResponseBody> response = ApiClient.getService().uploadPdf(body).execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IOException("Upload failed: " + response.message());
+        }
+        return TextCleaner.clean(new JSONObject(response.body().string()).getString("text")).getText();
+    }
+
+    private String summarize(String text) throws IOException {
+        Response<SummaryResponse> response =
+                ApiClient.getService().summarizeText(new SummaryRequest(text)).execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IOException("Summarize failed: " + response.message());
+        }
+        return response.body().getSummary();
+    }
+
+    private String translate(String summary, String lang) throws IOException {
+        Response<TranslationResponse> response =
+                ApiClient.getService().translateText(new TranslationRequest(summary, lang)).execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IOException("Translation failed: " + response.message());
+        }
+        return response.body().getTranslatedText();
+    }
+
+    private void notifyUpdated() {
+        mainHandler.post(() -> {
+            Listener current = listener;
+            if (current != null) {
+                current.onJobsChanged();
+            }
+        });
+    }
+
+    private void restore() {
+        List<BatchJob> restoredJobs = new ArrayList<>();
+        boolean canPersist = true;
+        if (storeFile.exists()) {
+            try (InputStream in = new FileInputStream(storeFile)) {
+                byte[] data = new byte[(int) storeFile.length()];
+                int read = 0;
+                while (read < data.length) {
+                    int n = in.read(data, read, data.length - read);
+                    if (n < 0) break;
+                    read += n;
+                }
+                JSONArray array = new JSONArray(new String(data, 0, read, StandardCharsets.UTF_8));
+                for (int i = 0; i < array.length(); i++) {
+                    restoredJobs.add(BatchJob.fromJson(array.getJSONObject(i)));
+                }
+            } catch (IOException | JSONException | IllegalArgumentException e) {
+                // IllegalArgumentException: a stage name this version doesn't know.
+                Log.e(TAG, "Couldn't restore batch jobs", e);
+                restoredJobs.clear();
+                storeSetAside = true;
+                // Keep the unreadable store for inspection instead of overwriting it with the new jobs.
+                File corrupt = new File(storeFile.getPath() + CORRUPT_SUFFIX);
+                corrupt.delete();
+                if (!storeFile.renameTo(corrupt)) {
+                    Log.e(TAG, "Couldn't move " + storeFile.getName() + " aside; batch jobs won't be saved");
+                    canPersist = false;
+                }
+            }
+        }
+
+        synchronized (this) {
+            // Jobs enqueued while the store was being read go after the restored ones.
+            jobs.addAll(0, restoredJobs);
+            restored = canPersist;
+            // Every job re-enters at the front; stages it has already passed simply forward it.
+            for (BatchJob job : restoredJobs) {
+                if (!job.isFinished()) {
+                    extractQueue.add(job);
+                }
+            }
+            persist();
+        }
+        notifyUpdated();
+    }
+
+    // Caller must hold the lock on this. Finished jobs only carry their short results, so
+    // the file stays small even after a long batch.
+    private void persist() {
+        if (!restored) {
+            // restore() persists everything once it is done.
+            return;
+        }
+        File tmp = new File(storeFile.getPath() + ".tmp");
+        try {
+            JSONArray array = new JSONArray();
+            for (BatchJob job : jobs) {
+                array.put(job.toJson());
+            }
+            try (FileOutputStream out = new FileOutputStream(tmp)) {
+                out.write(array.toString().getBytes(StandardCharsets.UTF_8));
+                out.getFD().sync();
+            }
+            if (!tmp.renameTo(storeFile)) {
+                throw new IOException("Couldn't replace " + storeFile.getName());
+            }
+        } catch (IOException | JSONException e) {
+            Log.e(TAG, "Couldn't persist batch jobs", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.textprocessorapp;
+
+/**
+ * Stops sending requests to a backend that keeps failing. After
+ * {@code failureThreshold} consecutive failures the breaker opens and rejects
+ * calls for {@code openMillis}; then a single trial call is let through and
+ * its outcome decides whether the breaker closes again or re-opens.
+ */
+class CircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    synchronized boolean allowRequest(long now) {
+        if (state == State.OPEN && now - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void recordFailure(long now) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = now;
+            trialInFlight = false;
+        }
+    }
+
+    /** Frees a half-open trial slot whose call ended without a success or failure being recorded. */
+    synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    synchronized long millisUntilRetry(long now) {
+        return state == State.OPEN ? Math.max(0, openMillis - (now - openedAt)) : 0;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
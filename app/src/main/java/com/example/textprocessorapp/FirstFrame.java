@@ -0,0 +1,37 @@
+package com.example.textprocessorapp;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+/**
+ * Defers work that isn't needed to show a screen until the screen has drawn
+ * its first frame, so it never competes with that frame on the main thread.
+ */
+final class FirstFrame {
+
+    private FirstFrame() {
+    }
+
+    /** Runs {@code action} once on the main thread, right after the activity's first draw. */
+    static void runAfter(Activity activity, Runnable action) {
+        View decorView = activity.getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+            private boolean drawn;
+
+            @Override
+            public void onDraw() {
+                if (drawn) {
+                    return;
+                }
+                drawn = true;
+                // Listeners can't be removed from inside onDraw, and the frame is still being
+                // produced at this point, so continue on the next loop.
+                decorView.post(() -> {
+                    decorView.getViewTreeObserver().removeOnDrawListener(this);
+                    action.run();
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.textprocessorapp;
+
+import android.content.ContentResolver;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.media.ExifInterface;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.google.android.gms.tasks.Tasks;
+import com.google.mlkit.vision.common.InputImage;
+import com.google.mlkit.vision.text.Text;
+import com.google.mlkit.vision.text.TextRecognition;
+import com.google.mlkit.vision.text.TextRecognizer;
+import com.google.mlkit.vision.text.latin.TextRecognizerOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs ML Kit text recognition over a set of images (photos of pages) and
+ * delivers the recognized text back on the main thread in page order.
+ */
+public class ImageTextExtractor {
+
+    public interface Listener {
+        void onPageRecognized(int pageIndex, String text);
+        void onComplete(int pageCount);
+        void onError(int pageIndex, Exception e);
+    }
+
+    // Longest edge handed to the recognizer; larger photos only cost decode time and memory.
+    private static final int TARGET_LONG_EDGE = 1600;
+    private static final int MAX_WORKERS = 2;
+
+    private final ContentResolver contentResolver;
+    private final TextRecognizer recognizer;
+    private final ExecutorService executor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // One reusable bitmap per worker thread, fed back into BitmapFactory via inBitmap.
+    private final ThreadLocal<Bitmap> reusableBitmap = new ThreadLocal<>();
+
+    public ImageTextExtractor(ContentResolver contentResolver) {
+        this.contentResolver = contentResolver;
+        this.recognizer = TextRecognition.getClient(TextRecognizerOptions.DEFAULT_OPTIONS);
+        int workers = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+        this.executor = Executors.newFixedThreadPool(workers);
+    }
+
+    public void extract(List<Uri> pages, Listener listener) {
+        if (pages.isEmpty()) {
+            mainHandler.post(() -> listener.onComplete(0));
+            return;
+        }
+
+        PageOrderer orderer = new PageOrderer(pages.size(), listener);
+        for (int i = 0; i < pages.size(); i++) {
+            int pageIndex = i;
+            Uri uri = pages.get(i);
+            executor.execute(() -> {
+                try {
+                    orderer.complete(pageIndex, recognizePage(uri));
+                } catch (Exception e) {
+                    mainHandler.post(() -> listener.onError(pageIndex, e));
+                    orderer.complete(pageIndex, "");
+                }
+            });
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        recognizer.close();
+    }
+
+    private String recognizePage(Uri uri) throws Exception {
+        Bitmap bitmap = decodeSampled(uri);
+        if (bitmap == null) {
+            throw new IOException("Couldn't decode image");
+        }
+
+        // BitmapFactory ignores EXIF orientation, so camera photos arrive sideways unless we tell ML Kit.
+        int rotationDegrees = readRotationDegrees(uri);
+
+        // Tasks.await keeps the bitmap in use until recognition is finished, so it is safe to reuse afterwards.
+        Text result = Tasks.await(recognizer.process(InputImage.fromBitmap(bitmap, rotationDegrees)));
+        reusableBitmap.set(bitmap);
+
+        StringBuilder pageText = new StringBuilder();
+        for (Text.TextBlock block : result.getTextBlocks()) {
+            if (pageText.length() > 0) {
+                pageText.append('\n');
+            }
+            pageText.append(block.getText());
+        }
+        return pageText.toString();
+    }
+
+    private Bitmap decodeSampled(Uri uri) throws IOException {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        try (InputStream in = contentResolver.openInputStream(uri)) {
+            if (in == null) {
+                throw new IOException("Couldn't open image stream");
+            }
+            BitmapFactory.decodeStream(in, null, options);
+        }
+
+        options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight);
+        options.inJustDecodeBounds = false;
+        options.inMutable = true;
+        options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+
+        Bitmap reuse = reusableBitmap.get();
+        if (reuse != null && !reuse.isRecycled()) {
+            options.inBitmap = reuse;
+        }
+
+        try (InputStream in = contentResolver.openInputStream(uri)) {
+            return BitmapFactory.decodeStream(in, null, options);
+        } catch (IllegalArgumentException e) {
+            // The pooled bitmap is too small for this page; decode into a fresh one.
+            reusableBitmap.remove();
+            options.inBitmap = null;
+            try (InputStream in = contentResolver.openInputStream(uri)) {
+                return BitmapFactory.decodeStream(in, null, options);
+            }
+        }
+    }
+
+    private int readRotationDegrees(Uri uri) {
+        try (InputStream in = contentResolver.openInputStream(uri)) {
+            if (in == null) {
+                return 0;
+            }
+            return rotationForOrientation(new ExifInterface(in).getAttributeInt(
+                    ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL));
+        } catch (IOException e) {
+            // No readable EXIF block (e.g. a PNG screenshot); treat it as upright.
+            return 0;
+        }
+    }
+
+    static int rotationForOrientation(int orientation) {
+        switch (orientation) {
+            case ExifInterface.ORIENTATION_ROTATE_90:
+            case ExifInterface.ORIENTATION_TRANSPOSE:
+                return 90;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+            case ExifInterface.ORIENTATION_FLIP_VERTICAL:
+                return 180;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+            case ExifInterface.ORIENTATION_TRANSVERSE:
+                return 270;
+            default:
+                return 0;
+        }
+    }
+
+    static int calculateInSampleSize(int width, int height) {
+        int inSampleSize = 1;
+        int longEdge = Math.max(width, height);
+        while (longEdge / (inSampleSize * 2) >= TARGET_LONG_EDGE) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+
+    /**
+     * Buffers pages that finish early and releases them to the listener only
+     * once every earlier page has been delivered.
+     */
+    private class PageOrderer {
+        private final int pageCount;
+        private final Listener listener;
+        private final Map<Integer, String> pending = new HashMap<>();
+        private int nextPage = 0;
+
+        PageOrderer(int pageCount, Listener listener) {
+            this.pageCount = pageCount;
+            this.listener = listener;
+        }
+
+        synchronized void complete(int pageIndex, String text) {
+            pending.put(pageIndex, text);
+            while (pending.containsKey(nextPage)) {
+                int page = nextPage;
+                String pageText = pending.remove(page);
+                mainHandler.post(() -> listener.onPageRecognized(page, pageText));
+                nextPage++;
+            }
+            if (nextPage == pageCount) {
+                mainHandler.post(() -> listener.onComplete(pageCount));
+            }
+        }
+    }
+}
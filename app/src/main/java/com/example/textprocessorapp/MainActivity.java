@@ -35,15 +35,16 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
@@ -51,20 +52,19 @@ import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
-import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
 
 public class MainActivity extends AppCompatActivity {
     private EditText inputText;
     private TextView resultText;
-    private ApiService apiService;
     private static final int PDF_REQUEST_CODE = 1001;
+    private static final int IMAGE_REQUEST_CODE = 1002;
     private String extractedText = "";
     private LinearLayout translationButtonsLayout;
     private ProgressBar progressBar;
 
     private ImageView btnCancel;
     private TextView tvUploadStatus;
+    private ImageTextExtractor imageTextExtractor;
 
     private final String[] languageCodes = {"mr", "hi", "te", "pa"};
     private final String[] languageNames = {"Marathi", "Hindi", "Telugu", "Punjabi"};
@@ -72,12 +72,18 @@ public class MainActivity extends AppCompatActivity {
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        StartupMetrics.markActivityCreated();
         setContentView(R.layout.activity_main);
 
         initializeViews();
-        setupRetrofit();
         setupButtonListeners();
 
+        // The network stack isn't needed to show the screen, so build it after the first frame.
+        FirstFrame.runAfter(this, () -> {
+            StartupMetrics.markFirstFrame();
+            ApiClient.warmUp();
+        });
+
         findViewById(R.id.btnRewrite).setOnClickListener(v -> showRewriteDialog());
         resultText = findViewById(R.id.resultText);
         resultText.setMovementMethod(new ScrollingMovementMethod());
@@ -102,25 +108,20 @@ public class MainActivity extends AppCompatActivity {
         tvUploadStatus = findViewById(R.id.tvUploadStatus);
     }
 
-    private void setupRetrofit() {
-        OkHttpClient client = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
-
-        Retrofit retrofit = new Retrofit.Builder()
-                .client(client)
-                .baseUrl("https://8a39-106-193-150-43.ngrok-free.app")
-                .addConverterFactory(GsonConverterFactory.create())
-                .build();
-
-        apiService = retrofit.create(ApiService.class);
+    private ApiService api() {
+        // Marked once the service is in hand, so any wait on an unfinished warm-up is included.
+        ApiService service = ApiClient.getService();
+        StartupMetrics.markFirstRequest();
+        return service;
     }
 
     private void setupButtonListeners() {
         findViewById(R.id.btnSummarize).setOnClickListener(v -> summarizeText());
         findViewById(R.id.btnWordCount).setOnClickListener(v -> countWords());
         findViewById(R.id.btnUploadPdf).setOnClickListener(v -> openFilePicker());
+        findViewById(R.id.btnScanImages).setOnClickListener(v -> openImagePicker());
+        findViewById(R.id.btnBatch).setOnClickListener(v ->
+                startActivity(new Intent(this, BatchActivity.class)));
 
         btnCancel.setOnClickListener(v -> resetUI());
     }
@@ -131,12 +132,83 @@ public class MainActivity extends AppCompatActivity {
         startActivityForResult(intent, PDF_REQUEST_CODE);
     }
 
+    private void openImagePicker() {
+        Intent intent = new Intent(Intent.ACTION_GET_CONTENT);
+        intent.setType("image/*");
+        intent.putExtra(Intent.EXTRA_ALLOW_MULTIPLE, true);
+        startActivityForResult(intent, IMAGE_REQUEST_CODE);
+    }
+
     @Override
     protected void onActivityResult(int requestCode, int resultCode, @Nullable Intent data) {
         super.onActivityResult(requestCode, resultCode, data);
         if (requestCode == PDF_REQUEST_CODE && resultCode == RESULT_OK && data != null) {
             uploadPdf(data.getData());
+        } else if (requestCode == IMAGE_REQUEST_CODE && resultCode == RESULT_OK && data != null) {
+            recognizeImages(getSelectedUris(data));
+        }
+    }
+
+    private List<Uri> getSelectedUris(Intent data) {
+        List<Uri> uris = new ArrayList<>();
+        if (data.getClipData() != null) {
+            for (int i = 0; i < data.getClipData().getItemCount(); i++) {
+                uris.add(data.getClipData().getItemAt(i).getUri());
+            }
+        } else if (data.getData() != null) {
+            uris.add(data.getData());
+        }
+        return uris;
+    }
+
+    private void recognizeImages(List<Uri> pages) {
+        if (pages.isEmpty()) {
+            showError("No images selected");
+            return;
+        }
+        if (imageTextExtractor == null) {
+            imageTextExtractor = new ImageTextExtractor(getContentResolver());
+        }
+
+        showLoading(true);
+        extractedText = "";
+        resultText.setText("Extracted Text: ");
+        imageTextExtractor.extract(pages, new ImageTextExtractor.Listener() {
+            @Override
+            public void onPageRecognized(int pageIndex, String text) {
+                if (text.isEmpty()) {
+                    return;
+                }
+                extractedText = extractedText.isEmpty() ? text : extractedText + "\n\n" + text;
+                resultText.setText("Extracted Text: " + extractedText);
+            }
+
+            @Override
+            public void onComplete(int pageCount) {
+                showLoading(false);
+                if (extractedText.isEmpty()) {
+                    showError("No text found in images");
+                } else {
+                    tvUploadStatus.setText(pageCount == 1 ? "1 image scanned" : pageCount + " images scanned");
+                    showUploadStatus(true);
+                }
+            }
+
+            @Override
+            public void onError(int pageIndex, Exception e) {
+                Log.e("MainActivity", "Recognition failed for page " + (pageIndex + 1), e);
+                Toast.makeText(MainActivity.this,
+                        "Couldn't read page " + (pageIndex + 1), Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        if (imageTextExtractor != null) {
+            imageTextExtractor.shutdown();
         }
+        super.onDestroy();
     }
 
     private void uploadPdf(Uri pdfUri) {
@@ -178,7 +250,7 @@ public class MainActivity extends AppCompatActivity {
         RequestBody requestFile = RequestBody.create(MediaType.parse("application/pdf"), file);
         MultipartBody.Part body = MultipartBody.Part.createFormData("file", file.getName(), requestFile);
 
-        apiService.uploadPdf(body).enqueue(new Callback<ResponseBody>() {
+        api().uploadPdf(body).enqueue(new Callback<ResponseBody>() {
             @Override
             public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
                 showLoading(false);
@@ -201,8 +273,14 @@ public class MainActivity extends AppCompatActivity {
         try {
             String responseBody = response.body().string();
             JSONObject jsonResponse = new JSONObject(responseBody);
-            extractedText = jsonResponse.getString("text");
+            TextCleaner.Result cleaned = TextCleaner.clean(jsonResponse.getString("text"));
+            Log.i("MainActivity", "Cleanup saved " + cleaned.getBytesSaved() + " bytes (~"
+                    + cleaned.getEstimatedTokensSaved() + " tokens), removed "
+                    + cleaned.getRemovedLines() + " header/footer lines");
+            extractedText = cleaned.getText();
             resultText.setText("Extracted Text: " + extractedText);
+            tvUploadStatus.setText(String.format(Locale.US, "File Uploaded (%d KB → %d KB after cleanup)",
+                    cleaned.getOriginalBytes() / 1024, cleaned.getCleanedBytes() / 1024));
             showUploadStatus(true);
         } catch (Exception e) {
             showError("Error parsing response");
@@ -217,7 +295,7 @@ public class MainActivity extends AppCompatActivity {
         }
 
         showLoading(true);
-        apiService.summarizeText(new SummaryRequest(text)).enqueue(new Callback<SummaryResponse>() {
+        api().summarizeText(new SummaryRequest(text)).enqueue(new Callback<SummaryResponse>() {
             @Override
             public void onResponse(Call<SummaryResponse> call, Response<SummaryResponse> response) {
                 showLoading(false);
@@ -250,7 +328,8 @@ public class MainActivity extends AppCompatActivity {
 
             @Override
             public void onFailure(Call<SummaryResponse> call, Throwable t) {
-
+                showLoading(false);
+                showError("Network error: " + t.getMessage());
             }
         });
     }
@@ -277,7 +356,7 @@ public class MainActivity extends AppCompatActivity {
         String textToTranslate = getCleanTextForTranslation();
         showLoading(true);
 
-        apiService.translateText(new TranslationRequest(textToTranslate, langCode))
+        api().translateText(new TranslationRequest(textToTranslate, langCode))
                 .enqueue(new Callback<TranslationResponse>() {
                     @Override
                     public void onResponse(Call<TranslationResponse> call, Response<TranslationResponse> response) {
@@ -399,7 +478,7 @@ public class MainActivity extends AppCompatActivity {
         }
 
         showLoading(true);
-        apiService.rewriteText(new RewriteRequest(text, style))
+        api().rewriteText(new RewriteRequest(text, style))
                 .enqueue(new Callback<RewriteResponse>() {
                     @Override
                     public void onResponse(Call<RewriteResponse> call, Response<RewriteResponse> response) {
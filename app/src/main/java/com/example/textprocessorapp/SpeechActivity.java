@@ -19,6 +19,8 @@ import java.util.Locale;
 
 public class SpeechActivity extends AppCompatActivity implements TextToSpeech.OnInitListener {
     private TextToSpeech tts;
+    private boolean ttsReady;
+    private boolean speakWhenReady;
     private String summaryText;
     private Spinner languageSpinner;
 
@@ -31,7 +33,8 @@ public class SpeechActivity extends AppCompatActivity implements TextToSpeech.On
         TextView tvSummary = findViewById(R.id.tvSummary);
         tvSummary.setText(summaryText);
 
-        tts = new TextToSpeech(this, this);
+        // Binding the TTS engine is slow; start it once the screen is drawn rather than blocking it.
+        FirstFrame.runAfter(this, this::initTts);
 
         languageSpinner = findViewById(R.id.spinnerLanguages);
         setupLanguageSpinner();
@@ -40,6 +43,13 @@ public class SpeechActivity extends AppCompatActivity implements TextToSpeech.On
         findViewById(R.id.btnStop).setOnClickListener(v -> stopSpeaking());
     }
 
+    private void initTts() {
+        // The deferred call can land after onDestroy (e.g. a rotation); an engine made then would leak.
+        if (tts == null && !isFinishing() && !isDestroyed()) {
+            tts = new TextToSpeech(this, this);
+        }
+    }
+
     private void setupLanguageSpinner() {
         List<LangItem> languages = new ArrayList<>();
         languages.add(new LangItem("Marathi", "mr-IN"));
@@ -54,13 +64,32 @@ public class SpeechActivity extends AppCompatActivity implements TextToSpeech.On
 
     @Override
     public void onInit(int status) {
-        if (status == TextToSpeech.SUCCESS) {
+        ttsReady = status == TextToSpeech.SUCCESS;
+        if (ttsReady) {
             // Default to English
             tts.setLanguage(Locale.US);
+            if (speakWhenReady) {
+                speakWhenReady = false;
+                speak();
+            }
+        } else {
+            // Drop the failed engine so the next tap tries to bind again.
+            tts.shutdown();
+            tts = null;
+            if (speakWhenReady) {
+                speakWhenReady = false;
+                Toast.makeText(this, "Text-to-speech unavailable", Toast.LENGTH_SHORT).show();
+            }
         }
     }
 
     private void speak() {
+        if (!ttsReady) {
+            // Tapped before the engine finished binding; speak as soon as onInit arrives.
+            speakWhenReady = true;
+            initTts();
+            return;
+        }
         LangItem selectedLang = (LangItem) languageSpinner.getSelectedItem();
         Locale locale = new Locale(selectedLang.getCode().split("-")[0]);
 
@@ -73,6 +102,7 @@ public class SpeechActivity extends AppCompatActivity implements TextToSpeech.On
     }
 
     private void stopSpeaking() {
+        speakWhenReady = false;
         if (tts != null) {
             tts.stop();
         }
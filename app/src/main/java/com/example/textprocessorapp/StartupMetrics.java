@@ -0,0 +1,59 @@
+package com.example.textprocessorapp;
+
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Records cold-start milestones (relative to process start) so they show up
+ * in logcat under {@value #TAG} and can be checked by the startup benchmark.
+ * Only the first call to each mark method counts; -1 means "not reached yet".
+ */
+public final class StartupMetrics {
+    static final String TAG = "StartupMetrics";
+
+    private static long activityCreatedMillis = -1;
+    private static long firstFrameMillis = -1;
+    private static long apiReadyMillis = -1;
+    private static long firstRequestMillis = -1;
+
+    private StartupMetrics() {
+    }
+
+    private static long sinceProcessStart() {
+        return SystemClock.uptimeMillis() - Process.getStartUptimeMillis();
+    }
+
+    static synchronized void markActivityCreated() {
+        if (activityCreatedMillis < 0) {
+            activityCreatedMillis = sinceProcessStart();
+            Log.i(TAG, "activity created: " + activityCreatedMillis + " ms");
+        }
+    }
+
+    static synchronized void markFirstFrame() {
+        if (firstFrameMillis < 0) {
+            firstFrameMillis = sinceProcessStart();
+            Log.i(TAG, "first frame: " + firstFrameMillis + " ms");
+        }
+    }
+
+    static synchronized void markApiReady() {
+        if (apiReadyMillis < 0) {
+            apiReadyMillis = sinceProcessStart();
+            Log.i(TAG, "api ready: " + apiReadyMillis + " ms");
+        }
+    }
+
+    static synchronized void markFirstRequest() {
+        if (firstRequestMillis < 0) {
+            firstRequestMillis = sinceProcessStart();
+            Log.i(TAG, "first request: " + firstRequestMillis + " ms");
+        }
+    }
+
+    public static synchronized long getActivityCreatedMillis() { return activityCreatedMillis; }
+    public static synchronized long getFirstFrameMillis() { return firstFrameMillis; }
+    public static synchronized long getApiReadyMillis() { return apiReadyMillis; }
+    public static synchronized long getFirstRequestMillis() { return firstRequestMillis; }
+}
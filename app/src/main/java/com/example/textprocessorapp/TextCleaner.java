@@ -0,0 +1,311 @@
+package com.example.textprocessorapp;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shrinks text extracted from PDFs before it is sent to the backend:
+ * drops running headers/footers and page numbers, joins words hyphenated
+ * across line breaks, unwraps hard line breaks and collapses whitespace.
+ *
+ * Pages are separated by form feeds ({@code \f}), which is how /upload-pdf
+ * joins them. Only the top and bottom lines of a page are ever considered
+ * boilerplate, so table rows and numbers in the body are always kept, and
+ * even an edge line has to repeat across pages (page numbers counting up
+ * with the pages) before it is dropped.
+ * Text without page breaks is only unwrapped and collapsed.
+ */
+public final class TextCleaner {
+
+    // A line must sit at the top or bottom of this many pages to count as a running header/footer.
+    private static final int MIN_PAGES = 3;
+    // How many lines may be peeled off each edge of a page (e.g. title + page number).
+    private static final int EDGE_LINES = 2;
+    private static final int MAX_BOILERPLATE_LENGTH = 80;
+    // Rough chars-per-token ratio for English text, only used for reporting.
+    private static final int CHARS_PER_TOKEN = 4;
+
+    public static final class Result {
+        private final String text;
+        private final int originalBytes;
+        private final int cleanedBytes;
+        private final int removedLines;
+
+        Result(String text, int originalBytes, int cleanedBytes, int removedLines) {
+            this.text = text;
+            this.originalBytes = originalBytes;
+            this.cleanedBytes = cleanedBytes;
+            this.removedLines = removedLines;
+        }
+
+        public String getText() { return text; }
+        public int getOriginalBytes() { return originalBytes; }
+        public int getCleanedBytes() { return cleanedBytes; }
+        public int getRemovedLines() { return removedLines; }
+
+        public int getBytesSaved() {
+            return originalBytes - cleanedBytes;
+        }
+
+        public int getEstimatedTokensSaved() {
+            return getBytesSaved() / CHARS_PER_TOKEN;
+        }
+    }
+
+    private TextCleaner() {
+    }
+
+    public static Result clean(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            return new Result("", 0, 0, 0);
+        }
+
+        char[] in = raw.toCharArray();
+        char[] keyBuf = new char[in.length];
+
+        // Split into trimmed line bounds, remembering which line starts each page.
+        int[] lineStarts = new int[64];
+        int[] lineEnds = new int[64];
+        int[] pageFirstLine = new int[8];
+        int lineCount = 0;
+        int pageCount = 1;
+        int start = 0;
+        while (start < in.length) {
+            int end = lineEnd(in, start);
+            int s = start;
+            int e = end;
+            while (s < e && Character.isWhitespace(in[s])) s++;
+            while (e > s && Character.isWhitespace(in[e - 1])) e--;
+            boolean pageBreak = end < in.length && in[end] == '\f';
+            // The blank line PyMuPDF leaves before each page break isn't a paragraph break.
+            if (s != e || !pageBreak) {
+                if (lineCount == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+                    lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+                }
+                lineStarts[lineCount] = s;
+                lineEnds[lineCount] = e;
+                lineCount++;
+            }
+            if (pageBreak) {
+                if (pageCount == pageFirstLine.length) {
+                    pageFirstLine = Arrays.copyOf(pageFirstLine, pageCount * 2);
+                }
+                pageFirstLine[pageCount++] = lineCount;
+            }
+            start = nextLineStart(in, end);
+        }
+        // A trailing form feed leaves an empty last page; drop it.
+        if (pageCount > 1 && pageFirstLine[pageCount - 1] == lineCount) {
+            pageCount--;
+        }
+        pageFirstLine = Arrays.copyOf(pageFirstLine, pageCount + 1);
+        pageFirstLine[pageCount] = lineCount;
+
+        boolean[] removed = new boolean[lineCount];
+        int removedLines = 0;
+        if (pageCount >= 2) {
+            int minPages = Math.min(MIN_PAGES, pageCount);
+            // Each round looks only at the current first and last non-blank line of every page,
+            // so a two-line header (title, then page number) goes in two rounds and body lines never qualify.
+            for (int round = 0; round < EDGE_LINES; round++) {
+                int[] top = new int[pageCount];
+                int[] bottom = new int[pageCount];
+                Map<String, Integer> edgePages = new HashMap<>();
+                for (int p = 0; p < pageCount; p++) {
+                    top[p] = edgeLine(lineStarts, lineEnds, removed, pageFirstLine[p], pageFirstLine[p + 1], 1);
+                    bottom[p] = edgeLine(lineStarts, lineEnds, removed, pageFirstLine[p], pageFirstLine[p + 1], -1);
+                    // Count pages, not occurrences: a line at both edges of one page counts once.
+                    Set<String> seen = new HashSet<>();
+                    for (int line : new int[]{top[p], bottom[p]}) {
+                        if (line >= 0) {
+                            String key = edgeKey(in, lineStarts[line], lineEnds[line], p, keyBuf);
+                            if (seen.add(key)) {
+                                Integer count = edgePages.get(key);
+                                edgePages.put(key, count == null ? 1 : count + 1);
+                            }
+                        }
+                    }
+                }
+
+                int removedThisRound = 0;
+                for (int p = 0; p < pageCount; p++) {
+                    for (int line : new int[]{top[p], bottom[p]}) {
+                        if (line < 0 || removed[line]) {
+                            continue;
+                        }
+                        String key = edgeKey(in, lineStarts[line], lineEnds[line], p, keyBuf);
+                        if (key.length() <= MAX_BOILERPLATE_LENGTH && edgePages.get(key) >= minPages) {
+                            removed[line] = true;
+                            removedThisRound++;
+                        }
+                    }
+                }
+                if (removedThisRound == 0) {
+                    break;
+                }
+                removedLines += removedThisRound;
+            }
+        }
+
+        char[] out = new char[in.length];
+        int o = 0;
+        boolean hyphenPending = false;
+        boolean paragraphPending = false;
+
+        for (int line = 0; line < lineCount; line++) {
+            int s = lineStarts[line];
+            int e = lineEnds[line];
+
+            if (s == e) {
+                paragraphPending = o > 0;
+                // A paragraph break ends the word, so "a-" stays as written.
+                hyphenPending = false;
+                continue;
+            }
+            if (removed[line]) {
+                continue;
+            }
+
+            if (o > 0) {
+                if (hyphenPending) {
+                    // "hyphen-/ated" was split mid-word; "well-/Known" is a real compound, keep its hyphen.
+                    if (Character.isLowerCase(in[s])) {
+                        o--;
+                    }
+                } else if (paragraphPending) {
+                    out[o++] = '\n';
+                    out[o++] = '\n';
+                } else {
+                    out[o++] = ' ';
+                }
+            }
+            paragraphPending = false;
+
+            boolean inWhitespace = false;
+            for (int i = s; i < e; i++) {
+                char c = in[i];
+                if (Character.isWhitespace(c)) {
+                    inWhitespace = true;
+                    continue;
+                }
+                if (inWhitespace) {
+                    out[o++] = ' ';
+                    inWhitespace = false;
+                }
+                out[o++] = c;
+            }
+
+            hyphenPending = e - s >= 2 && in[e - 1] == '-' && Character.isLetter(in[e - 2]);
+        }
+
+        return new Result(new String(out, 0, o), utf8Length(in, in.length), utf8Length(out, o), removedLines);
+    }
+
+    // First (step 1) or last (step -1) non-blank, not yet removed line of the page [from, to); -1 if none.
+    private static int edgeLine(int[] lineStarts, int[] lineEnds, boolean[] removed, int from, int to, int step) {
+        for (int line = step == 1 ? from : to - 1; line >= from && line < to; line += step) {
+            if (lineStarts[line] != lineEnds[line] && !removed[line]) {
+                return line;
+            }
+        }
+        return -1;
+    }
+
+    private static int lineEnd(char[] in, int from) {
+        int i = from;
+        while (i < in.length && in[i] != '\n' && in[i] != '\r' && in[i] != '\f') i++;
+        return i;
+    }
+
+    private static int nextLineStart(char[] in, int lineEnd) {
+        if (lineEnd + 1 < in.length && in[lineEnd] == '\r' && in[lineEnd + 1] == '\n') {
+            return lineEnd + 2;
+        }
+        return lineEnd + 1;
+    }
+
+    /**
+     * Key a page-edge line is counted under. Page numbers additionally carry their
+     * offset from the page index, so "Page 3"/"Page 4" on consecutive pages match
+     * while unrelated figures like "12" and "15" at the foot of a table do not.
+     */
+    private static String edgeKey(char[] in, int start, int end, int page, char[] buf) {
+        String key = lineKey(in, start, end, buf);
+        if (!isPageNumber(key)) {
+            return key;
+        }
+        long number = 0;
+        int i = start;
+        while (!Character.isDigit(in[i])) i++;
+        for (int digits = 0; i < end && Character.isDigit(in[i]) && digits < 9; i++, digits++) {
+            number = number * 10 + Character.digit(in[i], 10);
+        }
+        return key + '@' + (number - page);
+    }
+
+    /**
+     * Lower-cased, whitespace-collapsed form of a trimmed, non-blank line with
+     * every digit run replaced by '#', so "Page 3 of 10" and "Page 4 of 10" share a key.
+     */
+    private static String lineKey(char[] in, int start, int end, char[] buf) {
+        int k = 0;
+        char prev = 0;
+        for (int i = start; i < end; i++) {
+            char c = in[i];
+            if (Character.isDigit(c)) {
+                c = '#';
+            } else if (Character.isWhitespace(c)) {
+                c = ' ';
+            } else {
+                c = Character.toLowerCase(c);
+            }
+            if ((c == '#' || c == ' ') && c == prev) {
+                continue;
+            }
+            buf[k++] = c;
+            prev = c;
+        }
+        return new String(buf, 0, k);
+    }
+
+    // Matches "12", "- 12 -", "Page 12", "Page 12 of 40", "12 / 40" and similar.
+    static boolean isPageNumber(String key) {
+        boolean hasNumber = false;
+        for (String token : key.split(" ")) {
+            if (token.equals("page") || token.equals("pg") || token.equals("p.") || token.equals("of")) {
+                continue;
+            }
+            for (int i = 0; i < token.length(); i++) {
+                char c = token.charAt(i);
+                if (c == '#') {
+                    hasNumber = true;
+                } else if ("-\u2013\u2014.|/()[]".indexOf(c) < 0) {
+                    return false;
+                }
+            }
+        }
+        return hasNumber;
+    }
+
+    private static int utf8Length(char[] chars, int length) {
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars[i + 1])) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
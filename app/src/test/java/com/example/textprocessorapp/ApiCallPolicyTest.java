@@ -0,0 +1,86 @@
+package com.example.textprocessorapp;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ApiCallPolicyTest {
+    @Test
+    public void expectedTimeGrowsWithPayloadSize() {
+        assertEquals(15_000, ApiCallPolicy.expectedMillis("/summarize", 0));
+        assertEquals(35_000, ApiCallPolicy.expectedMillis("/summarize", 100 * 1024));
+        assertEquals(10_000, ApiCallPolicy.expectedMillis("/translate", 100 * 1024));
+        assertEquals(30_000, ApiCallPolicy.expectedMillis("/upload-pdf", 1000 * 1024));
+        assertEquals(30_000, ApiCallPolicy.expectedMillis("/unknown", 1024));
+    }
+
+    @Test
+    public void withoutHistoryTimeoutIsTwiceTheSizeEstimate() {
+        ApiCallPolicy policy = new ApiCallPolicy();
+
+        assertEquals(10_100, policy.timeoutMillis("/translate", ApiCallPolicy.expectedMillis("/translate", 1024)));
+        assertEquals(20_000, policy.timeoutMillis("/upload-pdf", ApiCallPolicy.expectedMillis("/upload-pdf", 0)));
+        assertEquals(30_000, policy.timeoutMillis("/summarize", ApiCallPolicy.expectedMillis("/summarize", 0)));
+        assertEquals(110_000, policy.timeoutMillis("/summarize",
+                ApiCallPolicy.expectedMillis("/summarize", 200 * 1024)));
+    }
+
+    @Test
+    public void timeoutIsClampedToMaximum() {
+        ApiCallPolicy policy = new ApiCallPolicy();
+
+        assertEquals(180_000, policy.timeoutMillis("/summarize",
+                ApiCallPolicy.expectedMillis("/summarize", 1000 * 1024)));
+    }
+
+    @Test
+    public void fastHistoryShrinksTimeoutDownToMinimum() {
+        ApiCallPolicy policy = new ApiCallPolicy();
+        long expected = ApiCallPolicy.expectedMillis("/translate", 1024);
+        for (int i = 0; i < 5; i++) {
+            policy.recordLatency("/translate", 300, expected);
+        }
+
+        assertEquals(5_000, policy.timeoutMillis("/translate", expected));
+    }
+
+    @Test
+    public void timedOutCallsGrowTheTimeout() {
+        ApiCallPolicy policy = new ApiCallPolicy();
+        long expected = ApiCallPolicy.expectedMillis("/summarize", 0);
+        long initial = policy.timeoutMillis("/summarize", expected);
+        for (int i = 0; i < 3; i++) {
+            policy.recordLatency("/summarize", initial, expected);
+        }
+
+        assertTrue(policy.timeoutMillis("/summarize", expected) > initial);
+    }
+
+    @Test
+    public void historyIsTrackedPerEndpoint() {
+        ApiCallPolicy policy = new ApiCallPolicy();
+        long expected = ApiCallPolicy.expectedMillis("/translate", 0);
+        for (int i = 0; i < 5; i++) {
+            policy.recordLatency("/translate", 300, expected);
+        }
+
+        assertEquals(30_000, policy.timeoutMillis("/rewrite", ApiCallPolicy.expectedMillis("/rewrite", 0)));
+    }
+
+    @Test
+    public void onlyGatewayAndOverloadStatusesAreRetried() {
+        assertFalse(ApiCallPolicy.isRetryable(500));
+        assertFalse(ApiCallPolicy.isRetryable(400));
+        assertTrue(ApiCallPolicy.isRetryable(429));
+        assertTrue(ApiCallPolicy.isRetryable(502));
+        assertTrue(ApiCallPolicy.isRetryable(503));
+        assertTrue(ApiCallPolicy.isRetryable(504));
+    }
+
+    @Test
+    public void inputErrorsDoNotCountAgainstTheBackend() {
+        assertFalse(ApiCallPolicy.signalsBackendDown(500));
+        assertFalse(ApiCallPolicy.signalsBackendDown(429));
+        assertTrue(ApiCallPolicy.signalsBackendDown(503));
+    }
+}
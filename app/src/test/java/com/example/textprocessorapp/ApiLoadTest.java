@@ -0,0 +1,351 @@
+package com.example.textprocessorapp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import static org.junit.Assert.*;
+
+/**
+ * Load-test harness for the real {@link ApiService} client (including
+ * {@link ApiCallPolicy}) against a local stub of the Flask backend.
+ *
+ * Skipped in the normal unit test run; enable it with {@code -Dloadtest.run=true}
+ * and tune it with the other {@code loadtest.*} properties, e.g.
+ * {@code ./gradlew :app:testDebugUnitTest --tests '*ApiLoadTest' -Dloadtest.run=true -Dloadtest.requests=2000 -Dloadtest.concurrency=32}.
+ * Supported: endpoint (summarize|translate|rewrite|upload-pdf|all), requests,
+ * concurrency, latencyMs, jitterMs, errorRate, errorStatus (503 is retried and counts
+ * against the breaker, 500 is neither), payloadBytes, responseBytes, and
+ * policy=false to measure the bare client without retries or the circuit breaker.
+ */
+public class ApiLoadTest {
+
+    @Test
+    public void reportsThroughputLatencyAndAllocation() throws Exception {
+        Assume.assumeTrue("load test disabled, pass -Dloadtest.run=true", Boolean.getBoolean("loadtest.run"));
+
+        Config config = Config.fromSystemProperties();
+        try (StubBackend backend = new StubBackend(config)) {
+            for (String endpoint : config.endpoints()) {
+                // A fresh client per endpoint, so a breaker opened by one run can't reject the next.
+                ApiCallPolicy policy = config.policy ? new ApiCallPolicy(System.err::println) : null;
+                ApiService apiService = ApiClient.create(backend.baseUrl(), policy);
+                Report report = run(apiService, backend, endpoint, config);
+                System.out.println(report);
+                if (config.errorRate == 0) {
+                    assertEquals(0, report.failures + report.rejected);
+                }
+                assertEquals(config.requests, report.latenciesNanos.length + report.failures + report.rejected);
+            }
+        }
+    }
+
+    static Report run(ApiService apiService, StubBackend backend, String endpoint, Config config)
+            throws InterruptedException {
+        String payload = repeat('a', config.payloadBytes);
+        byte[] pdfBytes = new byte[config.payloadBytes];
+
+        // Untimed warm-up so class loading and connection setup don't skew the numbers. Errors are
+        // off meanwhile so it can't feed the breaker before the measured run starts.
+        backend.setInjectErrors(false);
+        for (int i = 0; i < Math.min(10, config.requests); i++) {
+            try {
+                execute(newCall(apiService, endpoint, payload, pdfBytes));
+            } catch (IOException ignored) {
+            }
+        }
+        backend.setInjectErrors(true);
+
+        long[] latencies = new long[config.requests];
+        long[] allocations = new long[config.requests];
+        int[] outcomes = new int[config.requests];
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(config.concurrency);
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency);
+
+        long start = System.nanoTime();
+        for (int w = 0; w < config.concurrency; w++) {
+            workers.execute(() -> {
+                try {
+                    int i;
+                    while ((i = next.getAndIncrement()) < config.requests) {
+                        // Sync calls run on this thread, so its allocation counter covers the client's work.
+                        long allocBefore = allocatedBytes();
+                        long callStart = System.nanoTime();
+                        try {
+                            outcomes[i] = execute(newCall(apiService, endpoint, payload, pdfBytes))
+                                    ? Report.SUCCEEDED : Report.FAILED;
+                        } catch (ApiCallPolicy.ServerUnavailableException e) {
+                            outcomes[i] = Report.REJECTED;
+                        } catch (IOException e) {
+                            outcomes[i] = Report.FAILED;
+                        }
+                        latencies[i] = System.nanoTime() - callStart;
+                        allocations[i] = allocatedBytes() - allocBefore;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        workers.shutdown();
+
+        return new Report(endpoint, config, elapsed, latencies, allocations, outcomes);
+    }
+
+    private static Call<?> newCall(ApiService apiService, String endpoint, String payload, byte[] pdfBytes) {
+        switch (endpoint) {
+            case "summarize":
+                return apiService.summarizeText(new SummaryRequest(payload));
+            case "translate":
+                return apiService.translateText(new TranslationRequest(payload, "hi"));
+            case "rewrite":
+                return apiService.rewriteText(new RewriteRequest(payload, "casual"));
+            case "upload-pdf":
+                RequestBody file = RequestBody.create(MediaType.parse("application/pdf"), pdfBytes);
+                return apiService.uploadPdf(MultipartBody.Part.createFormData("file", "load.pdf", file));
+            default:
+                throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        }
+    }
+
+    private static boolean execute(Call<?> call) throws IOException {
+        Response<?> response = call.execute();
+        if (response.body() instanceof okhttp3.ResponseBody) {
+            ((okhttp3.ResponseBody) response.body()).string();
+        }
+        if (response.errorBody() != null) {
+            response.errorBody().close();
+        }
+        return response.isSuccessful() && response.body() != null;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    static class Config {
+        String endpoint = "all";
+        int requests = 40;
+        int concurrency = 4;
+        int latencyMs = 5;
+        int jitterMs = 5;
+        double errorRate = 0;
+        int errorStatus = 503;
+        int payloadBytes = 2048;
+        int responseBytes = 512;
+        boolean policy = true;
+
+        static Config fromSystemProperties() {
+            Config config = new Config();
+            config.endpoint = System.getProperty("loadtest.endpoint", config.endpoint);
+            config.requests = Integer.getInteger("loadtest.requests", config.requests);
+            config.concurrency = Integer.getInteger("loadtest.concurrency", config.concurrency);
+            config.latencyMs = Integer.getInteger("loadtest.latencyMs", config.latencyMs);
+            config.jitterMs = Integer.getInteger("loadtest.jitterMs", config.jitterMs);
+            config.errorRate = Double.parseDouble(
+                    System.getProperty("loadtest.errorRate", String.valueOf(config.errorRate)));
+            config.errorStatus = Integer.getInteger("loadtest.errorStatus", config.errorStatus);
+            config.payloadBytes = Integer.getInteger("loadtest.payloadBytes", config.payloadBytes);
+            config.responseBytes = Integer.getInteger("loadtest.responseBytes", config.responseBytes);
+            config.policy = Boolean.parseBoolean(
+                    System.getProperty("loadtest.policy", String.valueOf(config.policy)));
+            return config;
+        }
+
+        List<String> endpoints() {
+            if (endpoint.equals("all")) {
+                return Arrays.asList("summarize", "translate", "rewrite", "upload-pdf");
+            }
+            return Arrays.asList(endpoint);
+        }
+    }
+
+    static class Report {
+        static final int SUCCEEDED = 0;
+        static final int FAILED = 1;
+        // Failed fast by the open circuit breaker without reaching the backend.
+        static final int REJECTED = 2;
+
+        final String endpoint;
+        final Config config;
+        final long elapsedNanos;
+        final long[] latenciesNanos;
+        // Failed calls are kept apart: retries and backoff make them slow in ways the success percentiles hide.
+        final long[] failureLatenciesNanos;
+        final long allocatedBytes;
+        final int failures;
+        final int rejected;
+
+        Report(String endpoint, Config config, long elapsedNanos, long[] latencies, long[] allocations,
+               int[] outcomes) {
+            this.endpoint = endpoint;
+            this.config = config;
+            this.elapsedNanos = elapsedNanos;
+
+            List<Long> ok = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+            int rejectedCount = 0;
+            long allocated = 0;
+            for (int i = 0; i < latencies.length; i++) {
+                allocated += allocations[i];
+                if (outcomes[i] == SUCCEEDED) {
+                    ok.add(latencies[i]);
+                } else if (outcomes[i] == FAILED) {
+                    failed.add(latencies[i]);
+                } else {
+                    rejectedCount++;
+                }
+            }
+            this.latenciesNanos = sorted(ok);
+            this.failureLatenciesNanos = sorted(failed);
+            this.allocatedBytes = allocated;
+            this.failures = failed.size();
+            this.rejected = rejectedCount;
+        }
+
+        private static long[] sorted(List<Long> values) {
+            long[] array = new long[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = values.get(i);
+            }
+            Arrays.sort(array);
+            return array;
+        }
+
+        static double percentileMillis(long[] sortedNanos, double p) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            int total = latenciesNanos.length + failures + rejected;
+            // Throughput only counts calls that reached the backend; breaker rejections cost nothing.
+            int served = latenciesNanos.length + failures;
+            String report = String.format(Locale.US,
+                    "/%s%s: %d requests, concurrency %d, %.1f req/s served, %d failed, %d rejected by breaker | "
+                            + "ok p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms | %.1f KB allocated/request",
+                    endpoint, config.policy ? "" : " (no policy)", total, config.concurrency,
+                    served / (elapsedNanos / 1_000_000_000.0), failures, rejected,
+                    percentileMillis(latenciesNanos, 50), percentileMillis(latenciesNanos, 90),
+                    percentileMillis(latenciesNanos, 99), percentileMillis(latenciesNanos, 100),
+                    allocatedBytes / 1024.0 / Math.max(1, total));
+            if (failures > 0) {
+                report += String.format(Locale.US, " | failed p50 %.1f ms, p90 %.1f ms, max %.1f ms",
+                        percentileMillis(failureLatenciesNanos, 50), percentileMillis(failureLatenciesNanos, 90),
+                        percentileMillis(failureLatenciesNanos, 100));
+            }
+            return report;
+        }
+    }
+
+    /** Stand-in for the Flask backend with configurable latency, error rate and response size. */
+    static class StubBackend implements AutoCloseable {
+        private final HttpServer server;
+        private final ExecutorService executor;
+        private final Config config;
+        private volatile boolean injectErrors = true;
+
+        StubBackend(Config config) throws IOException {
+            this.config = config;
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            executor = Executors.newCachedThreadPool();
+            server.setExecutor(executor);
+
+            String text = repeat('s', config.responseBytes);
+            server.createContext("/summarize", exchange -> respond(exchange,
+                    "{\"summary\":\"" + text + "\",\"original_length\":" + config.payloadBytes
+                            + ",\"summary_length\":" + config.responseBytes + ",\"compression_ratio\":\"50%\"}"));
+            server.createContext("/translate", exchange -> respond(exchange,
+                    "{\"translated_text\":\"" + text + "\"}"));
+            server.createContext("/rewrite", exchange -> respond(exchange,
+                    "{\"original_text\":\"x\",\"rewritten_text\":\"" + text + "\",\"style\":\"casual\"}"));
+            server.createContext("/upload-pdf", exchange -> respond(exchange,
+                    "{\"text\":\"" + text + "\"}"));
+            server.start();
+        }
+
+        void setInjectErrors(boolean injectErrors) {
+            this.injectErrors = injectErrors;
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        private void respond(HttpExchange exchange, String json) throws IOException {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) != -1) {
+                    // Drain the request like the real server would.
+                }
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = config.latencyMs + (config.jitterMs > 0 ? random.nextInt(config.jitterMs + 1) : 0);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] body;
+            int status;
+            if (injectErrors && random.nextDouble() < config.errorRate) {
+                status = config.errorStatus;
+                body = "{\"error\":\"Injected failure\"}".getBytes(StandardCharsets.UTF_8);
+            } else {
+                status = 200;
+                body = json.getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.textprocessorapp;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BatchJobTest {
+    @Test
+    public void jobWaitingForSummaryRoundTripsWithItsText() throws Exception {
+        BatchJob job = new BatchJob("id-1", "report.pdf", "/files/batch/1.pdf", "hi");
+        job.stage = BatchJob.Stage.SUMMARIZE;
+        job.extractedText = "Quarterly revenue grew.";
+        job.extractedChars = job.extractedText.length();
+        job.extractMillis = 1200;
+
+        BatchJob restored = BatchJob.fromJson(new JSONObject(job.toJson().toString()));
+
+        assertEquals("id-1", restored.id);
+        assertEquals("report.pdf", restored.getFileName());
+        assertEquals("/files/batch/1.pdf", restored.filePath);
+        assertEquals("hi", restored.lang);
+        assertEquals(BatchJob.Stage.SUMMARIZE, restored.getStage());
+        assertEquals("Quarterly revenue grew.", restored.extractedText);
+        assertEquals(1200, restored.getProcessingMillis());
+    }
+
+    @Test
+    public void finishedJobKeepsResultsButDropsExtractedText() throws Exception {
+        BatchJob job = new BatchJob("id-2", "notes.pdf", "/files/batch/2.pdf", "mr");
+        job.stage = BatchJob.Stage.DONE;
+        job.extractedText = "Long body text that is no longer needed.";
+        job.extractedChars = 40;
+        job.summary = "Short summary.";
+        job.translation = "Translated summary.";
+        job.extractMillis = 1000;
+        job.summarizeMillis = 2000;
+        job.translateMillis = 1000;
+
+        JSONObject json = job.toJson();
+        BatchJob restored = BatchJob.fromJson(new JSONObject(json.toString()));
+
+        assertFalse(json.has("extractedText"));
+        assertEquals("", restored.extractedText);
+        assertEquals(BatchJob.Stage.DONE, restored.getStage());
+        assertTrue(restored.isFinished());
+        assertEquals("Short summary.", restored.getSummary());
+        assertEquals("Translated summary.", restored.getTranslation());
+        assertEquals(10.0, restored.getCharsPerSecond(), 0.001);
+    }
+
+    @Test
+    public void failedJobKeepsItsError() throws Exception {
+        BatchJob job = new BatchJob("id-3", "scan.pdf", "/files/batch/3.pdf", "te");
+        job.stage = BatchJob.Stage.FAILED;
+        job.error = "EXTRACT: Upload failed";
+
+        BatchJob restored = BatchJob.fromJson(new JSONObject(job.toJson().toString()));
+
+        assertEquals(BatchJob.Stage.FAILED, restored.getStage());
+        assertEquals("EXTRACT: Upload failed", restored.getError());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.textprocessorapp;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+    @Test
+    public void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 1_000);
+
+        breaker.recordFailure(0);
+        breaker.recordFailure(0);
+        assertTrue(breaker.allowRequest(0));
+
+        breaker.recordFailure(0);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest(500));
+        assertEquals(500, breaker.millisUntilRetry(500));
+    }
+
+    @Test
+    public void successResetsFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 1_000);
+
+        breaker.recordFailure(0);
+        breaker.recordSuccess();
+        breaker.recordFailure(0);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void letsOneTrialThroughAfterCooldown() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1_000);
+        breaker.recordFailure(0);
+
+        assertTrue(breaker.allowRequest(1_000));
+        assertFalse(breaker.allowRequest(1_001));
+
+        breaker.recordFailure(1_100);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        assertTrue(breaker.allowRequest(2_100));
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest(2_101));
+    }
+
+    @Test
+    public void releasedTrialLetsTheNextCallThrough() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1_000);
+        breaker.recordFailure(0);
+
+        assertTrue(breaker.allowRequest(1_000));
+        breaker.releaseTrial();
+
+        assertTrue(breaker.allowRequest(1_001));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.textprocessorapp;
+
+import android.media.ExifInterface;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ImageTextExtractorTest {
+    @Test
+    public void smallImagesAreNotSampled() {
+        assertEquals(1, ImageTextExtractor.calculateInSampleSize(1200, 800));
+        assertEquals(1, ImageTextExtractor.calculateInSampleSize(3199, 2000));
+    }
+
+    @Test
+    public void largeImagesAreSampledDownToTheTargetEdge() {
+        assertEquals(2, ImageTextExtractor.calculateInSampleSize(3200, 2400));
+        assertEquals(2, ImageTextExtractor.calculateInSampleSize(3000, 4000));
+        assertEquals(4, ImageTextExtractor.calculateInSampleSize(8000, 6000));
+    }
+
+    @Test
+    public void exifOrientationMapsToRotation() {
+        assertEquals(0, ImageTextExtractor.rotationForOrientation(ExifInterface.ORIENTATION_NORMAL));
+        assertEquals(0, ImageTextExtractor.rotationForOrientation(ExifInterface.ORIENTATION_UNDEFINED));
+        assertEquals(90, ImageTextExtractor.rotationForOrientation(ExifInterface.ORIENTATION_ROTATE_90));
+        assertEquals(180, ImageTextExtractor.rotationForOrientation(ExifInterface.ORIENTATION_ROTATE_180));
+        assertEquals(270, ImageTextExtractor.rotationForOrientation(ExifInterface.ORIENTATION_ROTATE_270));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.textprocessorapp;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TextCleanerTest {
+    @Test
+    public void stripsRepeatedHeadersAndPageNumbers() {
+        String raw = "ACME Annual Report\nFirst page text.\nPage 1 of 3\n\f"
+                + "ACME Annual Report\nSecond page text.\nPage 2 of 3\n\f"
+                + "ACME Annual Report\nThird page text.\nPage 3 of 3\n\f";
+
+        TextCleaner.Result result = TextCleaner.clean(raw);
+
+        assertEquals("First page text. Second page text. Third page text.", result.getText());
+        assertEquals(6, result.getRemovedLines());
+        assertTrue(result.getBytesSaved() > 0);
+    }
+
+    @Test
+    public void keepsNumericRowsAndRepeatedBodyLines() {
+        String table = "Q1 2021 revenue 10\nQ2 2021 revenue 12\nQ3 2021 revenue 15\nQ4 2021 revenue 18\n";
+        assertEquals("Q1 2021 revenue 10 Q2 2021 revenue 12 Q3 2021 revenue 15 Q4 2021 revenue 18",
+                TextCleaner.clean(table).getText());
+
+        // "Report" heads every page; the repeated note and figure sit in the body and must stay.
+        String raw = "Report\nPage one body.\nSee note.\n12.5\nSee note.\nEnd of page one\n\f"
+                + "Report\nPage two body.\nSee note.\n12.5\nSee note.\nEnd of page two\n\f"
+                + "Report\nPage three body.\nSee note.\n12.5\nSee note.\nEnd of page three\n\f";
+        assertEquals("Page one body. See note. 12.5 See note. End of page one "
+                        + "Page two body. See note. 12.5 See note. End of page two "
+                        + "Page three body. See note. 12.5 See note. End of page three",
+                TextCleaner.clean(raw).getText());
+    }
+
+    @Test
+    public void keepsNumbersAtPageEdgesThatDoNotCountUpWithThePages() {
+        String raw = "Intro para one.\nRevenue\n10\n12\n\f"
+                + "Second page body.\nCosts\n7\n9\n\f"
+                + "2021\nThird page body.\nTotal\n17\n21\n\f";
+
+        TextCleaner.Result result = TextCleaner.clean(raw);
+
+        assertEquals("Intro para one. Revenue 10 12 Second page body. Costs 7 9 "
+                + "2021 Third page body. Total 17 21", result.getText());
+        assertEquals(0, result.getRemovedLines());
+    }
+
+    @Test
+    public void leavesTextWithoutPageBreaksIntact() {
+        assertEquals("Intro 12 Summary 12", TextCleaner.clean("Intro\n12\nSummary\n12\n").getText());
+    }
+
+    @Test
+    public void joinsWordsHyphenatedAcrossLines() {
+        assertEquals("a hyphenated word", TextCleaner.clean("a hyphen-\nated word").getText());
+        assertEquals("well-Known", TextCleaner.clean("well-\nKnown").getText());
+        assertEquals("across pages", TextCleaner.clean("across pa-\n\fges").getText());
+        assertEquals("a-\n\nb", TextCleaner.clean("a-\n\nb").getText());
+    }
+
+    @Test
+    public void collapsesWhitespaceButKeepsParagraphs() {
+        String raw = "  one   two\r\nthree\r\n\r\n\r\nfour\t five  ";
+
+        assertEquals("one two three\n\nfour five", TextCleaner.clean(raw).getText());
+    }
+
+    @Test
+    public void handlesEmptyInput() {
+        assertEquals("", TextCleaner.clean("").getText());
+        assertEquals(0, TextCleaner.clean(null).getBytesSaved());
+    }
+}